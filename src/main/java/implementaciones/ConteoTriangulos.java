@@ -0,0 +1,194 @@
+package implementaciones;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Calcula los triángulos de cada vértice, su coeficiente de agrupamiento local y la transitividad
+ * global de un grafo a partir de su matriz de adyacencia.
+ * Las aristas se orientan según el orden por grado (de menor a mayor), de modo que cada triángulo
+ * se descubre una sola vez desde su vértice de menor rango. Los vecindarios se intersectan con
+ * filas de bits (AND palabra por palabra) cuando el grafo es denso, o mezclando listas de vecinos
+ * ordenadas cuando es disperso. Los vértices de origen se reparten entre los núcleos disponibles.
+ * En grafos dirigidos se analiza el grafo no dirigido subyacente y los lazos se ignoran.
+ */
+final class ConteoTriangulos {
+
+    /** Número de triángulos en los que participa cada vértice. */
+    final long[] triangulosPorVertice;
+    /** Coeficiente de agrupamiento local de cada vértice. */
+    final double[] coeficientesLocales;
+    /** Número total de triángulos del grafo. */
+    final long totalTriangulos;
+    /** Transitividad global: 3 * triángulos / tripletas conectadas. */
+    final double transitividad;
+
+    private ConteoTriangulos(long[] triangulosPorVertice, double[] coeficientesLocales,
+                             long totalTriangulos, double transitividad) {
+        this.triangulosPorVertice = triangulosPorVertice;
+        this.coeficientesLocales = coeficientesLocales;
+        this.totalTriangulos = totalTriangulos;
+        this.transitividad = transitividad;
+    }
+
+    /**
+     * Ejecuta el conteo sobre las primeras {@code n} filas y columnas de la matriz.
+     *
+     * @param matriz La matriz de adyacencia; un 0 indica la ausencia de arista.
+     * @param n      El número de vértices en uso.
+     * @return El resultado del conteo.
+     */
+    static ConteoTriangulos calcular(int[][] matriz, int n) {
+        int[][] vecinos = vecinosNoDirigidos(matriz, n);
+
+        // Rango por grado (desempate por índice): cada arista apunta al extremo de mayor rango
+        Integer[] orden = new Integer[n];
+        for (int i = 0; i < n; i++) orden[i] = i;
+        Arrays.sort(orden, (a, b) -> vecinos[a].length != vecinos[b].length
+                ? Integer.compare(vecinos[a].length, vecinos[b].length)
+                : Integer.compare(a, b));
+        int[] rango = new int[n];
+        for (int r = 0; r < n; r++) rango[orden[r]] = r;
+
+        int[][] salientes = new int[n][];
+        long sumaSalientes = 0;
+        for (int u = 0; u < n; u++) {
+            int[] lista = new int[vecinos[u].length];
+            int k = 0;
+            for (int v : vecinos[u]) {
+                if (rango[v] > rango[u]) lista[k++] = v;
+            }
+            salientes[u] = Arrays.copyOf(lista, k); // Conserva el orden por índice
+            sumaSalientes += k;
+        }
+
+        int palabras = (n + 63) >>> 6;
+        // Un AND de filas recorre 'palabras' palabras; una mezcla recorre ambas listas de salientes
+        boolean usarBits = n > 0 && 2 * sumaSalientes >= (long) n * palabras;
+        // Cada tarea acumula sus triángulos en un arreglo propio; los parciales se suman al final
+        long[] porVertice;
+        if (usarBits) {
+            long[][] bits = new long[n][palabras];
+            for (int u = 0; u < n; u++) {
+                for (int v : salientes[u]) bits[u][v >>> 6] |= 1L << v;
+            }
+            porVertice = IntStream.range(0, n).parallel().collect(() -> new long[n],
+                    (parcial, u) -> interseccionBits(u, salientes, bits, parcial), ConteoTriangulos::sumar);
+        } else {
+            porVertice = IntStream.range(0, n).parallel().collect(() -> new long[n],
+                    (parcial, u) -> interseccionMezcla(u, salientes, parcial), ConteoTriangulos::sumar);
+        }
+
+        double[] coeficientes = new double[n];
+        long sumaTriangulos = 0;
+        long tripletas = 0;
+        for (int v = 0; v < n; v++) {
+            long d = vecinos[v].length;
+            long pares = d * (d - 1) / 2;
+            coeficientes[v] = pares == 0 ? 0.0 : (double) porVertice[v] / pares;
+            sumaTriangulos += porVertice[v];
+            tripletas += pares;
+        }
+        long total = sumaTriangulos / 3; // Cada triángulo se reparte entre sus tres vértices
+        double transitividad = tripletas == 0 ? 0.0 : 3.0 * total / tripletas;
+        return new ConteoTriangulos(porVertice, coeficientes, total, transitividad);
+    }
+
+    /**
+     * Suma en {@code destino} los triángulos por vértice acumulados por otra tarea.
+     */
+    private static void sumar(long[] destino, long[] parcial) {
+        for (int v = 0; v < destino.length; v++) destino[v] += parcial[v];
+    }
+
+    /**
+     * Construye las listas de vecinos, ordenadas por índice, del grafo no dirigido subyacente.
+     * Las filas de la matriz se recorren una sola vez y cada arista se refleja en una fila de bits,
+     * evitando leer la matriz por columnas.
+     */
+    private static int[][] vecinosNoDirigidos(int[][] matriz, int n) {
+        int palabras = (n + 63) >>> 6;
+        long[][] simetrica = new long[n][palabras];
+        int[] columnas = new int[n];
+        for (int i = 0; i < n; i++) {
+            int cuenta = KernelFilas.indicesNoCero(matriz[i], n, columnas);
+            for (int k = 0; k < cuenta; k++) {
+                int j = columnas[k];
+                if (j == i) continue;
+                simetrica[i][j >>> 6] |= 1L << j;
+                simetrica[j][i >>> 6] |= 1L << i;
+            }
+        }
+
+        int[][] vecinos = new int[n][];
+        for (int i = 0; i < n; i++) {
+            long[] bits = simetrica[i];
+            int grado = 0;
+            for (long palabra : bits) grado += Long.bitCount(palabra);
+            int[] lista = new int[grado];
+            int k = 0;
+            for (int p = 0; p < palabras; p++) {
+                long x = bits[p];
+                while (x != 0) {
+                    lista[k++] = (p << 6) + Long.numberOfTrailingZeros(x);
+                    x &= x - 1;
+                }
+            }
+            vecinos[i] = lista;
+        }
+        return vecinos;
+    }
+
+    /**
+     * Cuenta los triángulos con vértice de menor rango {@code u} haciendo AND de su fila de bits
+     * con la de cada vecino saliente.
+     */
+    private static void interseccionBits(int u, int[][] salientes, long[][] bits, long[] triangulos) {
+        long[] filaU = bits[u];
+        long propios = 0;
+        for (int v : salientes[u]) {
+            long[] filaV = bits[v];
+            long comunes = 0;
+            for (int p = 0; p < filaU.length; p++) {
+                long x = filaU[p] & filaV[p];
+                while (x != 0) {
+                    triangulos[(p << 6) + Long.numberOfTrailingZeros(x)]++;
+                    comunes++;
+                    x &= x - 1;
+                }
+            }
+            triangulos[v] += comunes;
+            propios += comunes;
+        }
+        triangulos[u] += propios;
+    }
+
+    /**
+     * Cuenta los triángulos con vértice de menor rango {@code u} mezclando su lista de salientes
+     * con la de cada vecino saliente.
+     */
+    private static void interseccionMezcla(int u, int[][] salientes, long[] triangulos) {
+        int[] listaU = salientes[u];
+        long propios = 0;
+        for (int v : listaU) {
+            int[] listaV = salientes[v];
+            long comunes = 0;
+            int a = 0, b = 0;
+            while (a < listaU.length && b < listaV.length) {
+                if (listaU[a] < listaV[b]) {
+                    a++;
+                } else if (listaU[a] > listaV[b]) {
+                    b++;
+                } else {
+                    triangulos[listaU[a]]++;
+                    comunes++;
+                    a++;
+                    b++;
+                }
+            }
+            triangulos[v] += comunes;
+            propios += comunes;
+        }
+        triangulos[u] += propios;
+    }
+}
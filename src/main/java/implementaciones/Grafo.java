@@ -7,7 +7,8 @@ import java.util.*;
  * La clase permite crear grafos dirigidos/no dirigidos y ponderados/no ponderados.
  * Utiliza un mapa para asociar los nombres de los vértices (String) con sus índices (Integer) en la matriz,
  * lo que facilita el acceso y la manipulación.
- * La capacidad inicial del grafo es fija.
+ * La capacidad del grafo se fija al construirlo.
+ * Los recorridos de filas de la matriz se delegan en {@link KernelFilas}.
  */
 public class Grafo {
 
@@ -19,8 +20,10 @@ public class Grafo {
     private final List<String> vertices;
     /** Número actual de vértices en el grafo. */
     private int numeroVertices;
-    /** Capacidad máxima inicial de vértices que el grafo puede contener. */
-    private final int capacidad = 10;
+    /** Capacidad por defecto cuando no se indica una explícitamente. */
+    private static final int CAPACIDAD_POR_DEFECTO = 10;
+    /** Capacidad máxima de vértices que el grafo puede contener. */
+    private final int capacidad;
     /** Define si el grafo es dirigido. */
     private final boolean esDirigido;
     /** Define si las aristas del grafo tienen peso. */
@@ -33,6 +36,22 @@ public class Grafo {
      * @param esPonderado Si es true, el grafo será ponderado; de lo contrario, no ponderado.
      */
     public Grafo(boolean esDirigido, boolean esPonderado) {
+        this(esDirigido, esPonderado, CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un nuevo grafo con una capacidad máxima de vértices dada.
+     *
+     * @param esDirigido  Si es true, el grafo será dirigido; de lo contrario, no dirigido.
+     * @param esPonderado Si es true, el grafo será ponderado; de lo contrario, no ponderado.
+     * @param capacidad   El número máximo de vértices que podrá contener el grafo.
+     * @throws IllegalArgumentException Si la capacidad es negativa.
+     */
+    public Grafo(boolean esDirigido, boolean esPonderado, int capacidad) {
+        if (capacidad < 0) {
+            throw new IllegalArgumentException("La capacidad del grafo no puede ser negativa: " + capacidad);
+        }
+        this.capacidad = capacidad;
         this.esDirigido = esDirigido;
         this.esPonderado = esPonderado;
         this.indices = new HashMap<>();
@@ -212,20 +231,14 @@ public class Grafo {
         }
 
         if (esDirigido) {
-            int gradoSalida = 0;
-            for (int j = 0; j < numeroVertices; j++) {
-                if (matrizAdyacencia[indice][j] != 0) gradoSalida++;
-            }
+            int gradoSalida = KernelFilas.contarNoCero(matrizAdyacencia[indice], numeroVertices);
             int gradoEntrada = 0;
             for (int i = 0; i < numeroVertices; i++) {
                 if (matrizAdyacencia[i][indice] != 0) gradoEntrada++;
             }
             return "Vertice '" + vertice + "': Grado de Salida = " + gradoSalida + ", Grado de Entrada = " + gradoEntrada;
         } else {
-            int grado = 0;
-            for (int j = 0; j < numeroVertices; j++) {
-                if (matrizAdyacencia[indice][j] != 0) grado++;
-            }
+            int grado = KernelFilas.contarNoCero(matrizAdyacencia[indice], numeroVertices);
             return "Vertice '" + vertice + "': Grado = " + grado;
         }
     }
@@ -244,15 +257,16 @@ public class Grafo {
         }
         StringBuilder sb = new StringBuilder();
         sb.append("Vértices adyacentes a '" + vertice + "': ");
-        List<String> adyacentes = new ArrayList<>();
-        for (int j = 0; j < numeroVertices; j++) {
-            if (matrizAdyacencia[indice][j] != 0) {
-                String adyacente = vertices.get(j);
-                if (esPonderado) {
-                    adyacente += "(" + matrizAdyacencia[indice][j] + ")";
-                }
-                adyacentes.add(adyacente);
+        int[] columnas = new int[numeroVertices];
+        int cuenta = KernelFilas.indicesNoCero(matrizAdyacencia[indice], numeroVertices, columnas);
+        List<String> adyacentes = new ArrayList<>(cuenta);
+        for (int k = 0; k < cuenta; k++) {
+            int j = columnas[k];
+            String adyacente = vertices.get(j);
+            if (esPonderado) {
+                adyacente += "(" + matrizAdyacencia[indice][j] + ")";
             }
+            adyacentes.add(adyacente);
         }
 
         if (adyacentes.isEmpty()) {
@@ -272,11 +286,7 @@ public class Grafo {
     public String obtenerNumeroVerticesYAristas() {
         int numeroAristas = 0;
         for (int i = 0; i < numeroVertices; i++) {
-            for (int j = 0; j < numeroVertices; j++) {
-                if (matrizAdyacencia[i][j] != 0) {
-                    numeroAristas++;
-                }
-            }
+            numeroAristas += KernelFilas.contarNoCero(matrizAdyacencia[i], numeroVertices);
         }
         if (!esDirigido) {
             numeroAristas /= 2;
@@ -284,6 +294,30 @@ public class Grafo {
         return "Total de vertices: " + numeroVertices + "\nTotal de aristas: " + numeroAristas;
     }
 
+    /**
+     * Calcula los triángulos en los que participa cada vértice, su coeficiente de agrupamiento local
+     * y la transitividad global del grafo. En grafos dirigidos se analiza el grafo no dirigido
+     * subyacente; los lazos y los pesos se ignoran.
+     *
+     * @return Una cadena con los triángulos y coeficientes por vértice, el total de triángulos y la transitividad.
+     */
+    public String obtenerTriangulosYAgrupamiento() {
+        if (numeroVertices == 0) return "El grafo esta vacio.";
+
+        ConteoTriangulos conteo = ConteoTriangulos.calcular(matrizAdyacencia, numeroVertices);
+
+        StringBuilder sb = new StringBuilder("Triangulos y coeficientes de agrupamiento");
+        if (esDirigido) sb.append(" (grafo no dirigido subyacente)");
+        sb.append(":\n");
+        for (int i = 0; i < numeroVertices; i++) {
+            sb.append(String.format("Vertice '%s': Triangulos = %d, Coeficiente local = %.4f\n",
+                    vertices.get(i), conteo.triangulosPorVertice[i], conteo.coeficientesLocales[i]));
+        }
+        sb.append("Total de triangulos: ").append(conteo.totalTriangulos);
+        sb.append(String.format("\nTransitividad global: %.4f", conteo.transitividad));
+        return sb.toString();
+    }
+
     /**
      * Genera una representación en formato de cadena de la matriz de adyacencia del grafo.
      *
@@ -0,0 +1,103 @@
+package implementaciones;
+
+/**
+ * Núcleos de recorrido de filas de la matriz de adyacencia: contar las celdas distintas de cero
+ * y compactar sus índices. Cuando el módulo {@code jdk.incubator.vector} está disponible
+ * (se ejecuta con {@code --add-modules jdk.incubator.vector}) se usa la versión vectorizada;
+ * en caso contrario, la versión escalar.
+ * La propiedad de sistema {@code grafo.vectorizado} ({@code true}/{@code false}) o el método
+ * {@link #establecerVectorizado(boolean)} permiten forzar cualquiera de las dos rutas.
+ * Forzar la ruta vectorizada sin el módulo disponible, por cualquiera de los dos medios,
+ * lanza una {@link IllegalStateException}.
+ */
+public final class KernelFilas {
+
+    /** Indica si el módulo de la API de vectores está presente en la capa de arranque. */
+    private static final boolean VECTOR_DISPONIBLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /** Ruta activa: true para la vectorizada, false para la escalar. */
+    private static volatile boolean vectorizado = rutaInicial(System.getProperty("grafo.vectorizado"));
+
+    private KernelFilas() {
+    }
+
+    /**
+     * Determina la ruta inicial a partir de la propiedad {@code grafo.vectorizado}.
+     * Sin la propiedad se usa la ruta vectorizada siempre que el módulo esté disponible.
+     */
+    private static boolean rutaInicial(String propiedad) {
+        if ("true".equalsIgnoreCase(propiedad)) {
+            if (!VECTOR_DISPONIBLE) {
+                throw new IllegalStateException(
+                        "grafo.vectorizado=true requiere ejecutar con --add-modules jdk.incubator.vector.");
+            }
+            return true;
+        }
+        return VECTOR_DISPONIBLE && !"false".equalsIgnoreCase(propiedad);
+    }
+
+    /**
+     * Devuelve si el módulo {@code jdk.incubator.vector} está disponible, con independencia
+     * de la ruta que se haya forzado.
+     * @return true si la ruta vectorizada puede usarse, false en caso contrario.
+     */
+    public static boolean vectorDisponible() {
+        return VECTOR_DISPONIBLE;
+    }
+
+    /**
+     * Devuelve si los recorridos de filas usan la ruta vectorizada.
+     * @return true si se usa la API de vectores, false si se usa la ruta escalar.
+     */
+    public static boolean esVectorizado() {
+        return vectorizado;
+    }
+
+    /**
+     * Fuerza la ruta vectorizada o la escalar.
+     *
+     * @param activar Si es true, usa la API de vectores; de lo contrario, la ruta escalar.
+     * @throws IllegalStateException Si se pide la ruta vectorizada y el módulo no está disponible.
+     */
+    public static void establecerVectorizado(boolean activar) {
+        if (activar && !VECTOR_DISPONIBLE) {
+            throw new IllegalStateException("El modulo jdk.incubator.vector no esta disponible.");
+        }
+        vectorizado = activar;
+    }
+
+    /**
+     * Cuenta las celdas distintas de cero en las primeras {@code n} posiciones de una fila.
+     *
+     * @param fila La fila a recorrer.
+     * @param n    El número de posiciones en uso.
+     * @return El número de celdas distintas de cero.
+     */
+    static int contarNoCero(int[] fila, int n) {
+        if (vectorizado) return KernelFilasVector.contarNoCero(fila, n);
+        int cuenta = 0;
+        for (int j = 0; j < n; j++) {
+            if (fila[j] != 0) cuenta++;
+        }
+        return cuenta;
+    }
+
+    /**
+     * Escribe en {@code destino}, en orden creciente, los índices de las celdas distintas de cero
+     * en las primeras {@code n} posiciones de una fila.
+     *
+     * @param fila    La fila a recorrer.
+     * @param n       El número de posiciones en uso.
+     * @param destino El arreglo de salida; debe tener al menos {@code n} posiciones.
+     * @return El número de índices escritos.
+     */
+    static int indicesNoCero(int[] fila, int n, int[] destino) {
+        if (vectorizado) return KernelFilasVector.indicesNoCero(fila, n, destino);
+        int k = 0;
+        for (int j = 0; j < n; j++) {
+            if (fila[j] != 0) destino[k++] = j;
+        }
+        return k;
+    }
+}
@@ -0,0 +1,55 @@
+package implementaciones;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Versión de {@link KernelFilas} con la API de vectores. Solo se carga cuando el módulo
+ * {@code jdk.incubator.vector} está disponible.
+ */
+final class KernelFilasVector {
+
+    private static final VectorSpecies<Integer> ESPECIE = IntVector.SPECIES_PREFERRED;
+
+    private KernelFilasVector() {
+    }
+
+    static int contarNoCero(int[] fila, int n) {
+        // Acumula un contador por carril (la máscara como vector vale -1 en los carriles activos)
+        // y reduce una sola vez al final de la fila
+        IntVector acumulado = IntVector.zero(ESPECIE);
+        int j = 0;
+        int limite = ESPECIE.loopBound(n);
+        for (; j < limite; j += ESPECIE.length()) {
+            VectorMask<Integer> noCero = IntVector.fromArray(ESPECIE, fila, j).compare(VectorOperators.NE, 0);
+            acumulado = acumulado.sub((IntVector) noCero.toVector());
+        }
+        int cuenta = acumulado.reduceLanes(VectorOperators.ADD);
+        for (; j < n; j++) {
+            if (fila[j] != 0) cuenta++;
+        }
+        return cuenta;
+    }
+
+    static int indicesNoCero(int[] fila, int n, int[] destino) {
+        int k = 0;
+        int j = 0;
+        int limite = ESPECIE.loopBound(n);
+        for (; j < limite; j += ESPECIE.length()) {
+            VectorMask<Integer> noCero = IntVector.fromArray(ESPECIE, fila, j).compare(VectorOperators.NE, 0);
+            // La máscara se convierte en bits y se recorre con un bucle de bits; a diferencia de
+            // compress, esto es rápido también en CPU sin AVX-512
+            long bits = noCero.toLong();
+            while (bits != 0) {
+                destino[k++] = j + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        for (; j < n; j++) {
+            if (fila[j] != 0) destino[k++] = j;
+        }
+        return k;
+    }
+}
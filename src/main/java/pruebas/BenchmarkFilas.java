@@ -0,0 +1,65 @@
+package pruebas;
+
+import implementaciones.Grafo;
+import implementaciones.KernelFilas;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compara la ruta escalar y la vectorizada de {@link KernelFilas} en las consultas de {@link Grafo}
+ * que recorren filas completas de la matriz de adyacencia.
+ * Ejecutar con {@code --add-modules jdk.incubator.vector}. Argumentos opcionales: número de vértices
+ * y densidad de aristas (por defecto 4000 y 0.01).
+ */
+public class BenchmarkFilas {
+
+    private static final int CALENTAMIENTO = 20;
+    private static final int REPETICIONES = 15;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        double densidad = args.length > 1 ? Double.parseDouble(args[1]) : 0.01;
+
+        Grafo grafo = new Grafo(false, false, n);
+        for (int i = 0; i < n; i++) grafo.insertarVertice("v" + i);
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (random.nextDouble() < densidad) grafo.insertarArista("v" + i, "v" + j, 1);
+            }
+        }
+        System.out.println("Vertices: " + n + ", densidad: " + densidad);
+
+        medir("Escalar", false, grafo, n);
+        if (KernelFilas.vectorDisponible()) {
+            medir("Vectorizado", true, grafo, n);
+        } else {
+            System.out.println("Ruta vectorizada no disponible (falta --add-modules jdk.incubator.vector).");
+        }
+    }
+
+    private static void medir(String nombre, boolean vectorizado, Grafo grafo, int n) {
+        KernelFilas.establecerVectorizado(vectorizado);
+        System.out.printf("%-12s conteo V^2: %8.3f ms | grados: %8.3f ms | adyacencias: %8.3f ms%n", nombre,
+                mediana(() -> grafo.obtenerNumeroVerticesYAristas()),
+                mediana(() -> {
+                    for (int i = 0; i < n; i++) grafo.obtenerGradoVertice("v" + i);
+                }),
+                mediana(() -> {
+                    for (int i = 0; i < n; i++) grafo.obtenerAdyacencias("v" + i);
+                }));
+    }
+
+    private static double mediana(Runnable consulta) {
+        for (int i = 0; i < CALENTAMIENTO; i++) consulta.run();
+        long[] tiempos = new long[REPETICIONES];
+        for (int i = 0; i < REPETICIONES; i++) {
+            long inicio = System.nanoTime();
+            consulta.run();
+            tiempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tiempos);
+        return tiempos[REPETICIONES / 2] / 1e6;
+    }
+}
@@ -23,7 +23,7 @@ public class GraphUI extends JFrame {
     // Campos de texto y botones
     private JTextField txtVertice, txtOrigen, txtDestino, txtPeso;
     private JButton btnInsertarVertice, btnEliminarVertice, btnInsertarArista, btnEliminarArista, btnActualizarPeso;
-    private JButton btnGrado, btnAdyacentes, btnMatriz, btnInfoGeneral;
+    private JButton btnGrado, btnAdyacentes, btnMatriz, btnInfoGeneral, btnTriangulos;
 
     // Colores y Estilos
     private final Color COLOR_FONDO = new Color(245, 245, 245);
@@ -139,8 +139,10 @@ public class GraphUI extends JFrame {
         panelInfo.setBorder(BorderFactory.createTitledBorder("Informacion General del Grafo"));
         btnInfoGeneral = createStyledButton("Contar Vertices/Aristas");
         btnMatriz = createStyledButton("Mostrar Matriz de Adyacencia");
+        btnTriangulos = createStyledButton("Triangulos/Agrupamiento");
         panelInfo.add(btnInfoGeneral);
         panelInfo.add(btnMatriz);
+        panelInfo.add(btnTriangulos);
 
         panelOperaciones.add(panelVertices);
         panelOperaciones.add(panelAristas);
@@ -195,6 +197,7 @@ public class GraphUI extends JFrame {
 
         btnInfoGeneral.addActionListener(e -> handleAction(() -> log(grafo.obtenerNumeroVerticesYAristas(), LogType.INFO)));
         btnMatriz.addActionListener(e -> handleAction(() -> log(grafo.obtenerMatrizDeAdyacencia(), LogType.INFO)));
+        btnTriangulos.addActionListener(e -> handleAction(() -> log(grafo.obtenerTriangulosYAgrupamiento(), LogType.INFO)));
     }
 
     private void crearGrafo(ActionEvent e) {